@@ -3,6 +3,7 @@ package mail.api.event;
 import mail.api.annotations.ClientOnly;
 import mail.api.annotations.ServerOnly;
 import mail.api.game.Environment;
+import mail.api.loader.Mod;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -12,7 +13,9 @@ import java.lang.annotation.Target;
 /**
  * An object which represents an action elsewhere in the code.
  * <p>
- * Its functional subtypes are {@link Cancelable}, {@link Generic}, {@link SideAware} and {@link WithResult}.<br/>
+ * Its functional subtypes are {@link Cancelable}, {@link Generic}, {@link SideAware} and {@link WithResult}, as well
+ * as the primitive specializations of the latter: {@link WithIntResult}, {@link WithLongResult},
+ * {@link WithDoubleResult} and {@link WithBooleanResult}.<br/>
  * For the full list of available events, check the class hierarchy.
  * </p>
  *
@@ -32,6 +35,10 @@ public interface Event {
      * If the handler does not intend on cancelling or uncancelling the event, it must return the result of the
      * previous one.
      * </p>
+     * <p>
+     * The result is passed between handlers as a primitive, so the return type and {@link Result} parameter must be
+     * {@code boolean} rather than {@link Boolean}.
+     * </p>
      */
     interface Cancelable extends Event {
     }
@@ -96,6 +103,94 @@ public interface Event {
 
     }
 
+    /**
+     * Specialization of {@link WithResult} for {@code int} results.
+     * <p>
+     * Providing a result is optional, so handlers with a {@code void} return type are valid.<br/>
+     * Handlers that provide one must use {@code int} rather than {@link Integer} as their return type and
+     * {@link Result} parameter type.
+     * </p>
+     * <p>
+     * The result is passed between handlers as a primitive, so {@link EventBus#post(WithIntResult) posting} the event
+     * allocates nothing. {@link EventBus#postManually(WithIntResult) Posting it manually} still allocates the returned
+     * {@link EventBus.PostedEvent}.
+     * </p>
+     */
+    interface WithIntResult extends Event {
+
+        /**
+         * Gets the default result of the event as provided to the first handler.
+         */
+        int getDefaultResult();
+
+    }
+
+    /**
+     * Specialization of {@link WithResult} for {@code long} results.
+     * <p>
+     * Providing a result is optional, so handlers with a {@code void} return type are valid.<br/>
+     * Handlers that provide one must use {@code long} rather than {@link Long} as their return type and
+     * {@link Result} parameter type.
+     * </p>
+     * <p>
+     * The result is passed between handlers as a primitive, so {@link EventBus#post(WithLongResult) posting} the event
+     * allocates nothing. {@link EventBus#postManually(WithLongResult) Posting it manually} still allocates the returned
+     * {@link EventBus.PostedEvent}.
+     * </p>
+     */
+    interface WithLongResult extends Event {
+
+        /**
+         * Gets the default result of the event as provided to the first handler.
+         */
+        long getDefaultResult();
+
+    }
+
+    /**
+     * Specialization of {@link WithResult} for {@code double} results.
+     * <p>
+     * Providing a result is optional, so handlers with a {@code void} return type are valid.<br/>
+     * Handlers that provide one must use {@code double} rather than {@link Double} as their return type and
+     * {@link Result} parameter type.
+     * </p>
+     * <p>
+     * The result is passed between handlers as a primitive, so {@link EventBus#post(WithDoubleResult) posting} the event
+     * allocates nothing. {@link EventBus#postManually(WithDoubleResult) Posting it manually} still allocates the returned
+     * {@link EventBus.PostedEvent}.
+     * </p>
+     */
+    interface WithDoubleResult extends Event {
+
+        /**
+         * Gets the default result of the event as provided to the first handler.
+         */
+        double getDefaultResult();
+
+    }
+
+    /**
+     * Specialization of {@link WithResult} for {@code boolean} results.
+     * <p>
+     * Providing a result is optional, so handlers with a {@code void} return type are valid.<br/>
+     * Handlers that provide one must use {@code boolean} rather than {@link Boolean} as their return type and
+     * {@link Result} parameter type.
+     * </p>
+     * <p>
+     * The result is passed between handlers as a primitive, so {@link EventBus#post(WithBooleanResult) posting} the event
+     * allocates nothing. {@link EventBus#postManually(WithBooleanResult) Posting it manually} still allocates the returned
+     * {@link EventBus.PostedEvent}.
+     * </p>
+     */
+    interface WithBooleanResult extends Event {
+
+        /**
+         * Gets the default result of the event as provided to the first handler.
+         */
+        boolean getDefaultResult();
+
+    }
+
     /**
      * Marks a method as an event handler.
      * <p>
@@ -116,6 +211,17 @@ public interface Event {
      * An event handler may still want to receive a canceled event. If that is the case, {@link #receiveCanceled()}
      * can be set to true.
      * </p>
+     * <p>
+     * Handlers within the same phase can be ordered through {@link #priority()}, {@link #before()} and {@link #after()}.<br/>
+     * The order is resolved once whenever the bus rebuilds its handler chains, so it has no cost when posting.
+     * </p>
+     * <p>
+     * Ordering constraints are checked when registering: for each phase, the bus keeps a graph of the constraints
+     * between mods across all event types, where handlers registered without a mod count as nodes of their own.<br/>
+     * Registration fails with an {@link IllegalStateException} if the new handlers would create a cycle in it.<br/>
+     * This may reject constraints that would never meet in the same chain, but ensures posting never fails because of
+     * ordering.
+     * </p>
      */
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
@@ -142,6 +248,43 @@ public interface Event {
          */
         boolean deferred() default false;
 
+        /**
+         * Determines the order of the handler relative to others in the same phase. Higher priorities go first.
+         * <p>
+         * Only applies between handlers not ordered by {@link #before()} or {@link #after()}.
+         * </p>
+         * <p>
+         * Default: {@code 0}.
+         * </p>
+         */
+        int priority() default 0;
+
+        /**
+         * IDs of the {@link Mod mods} whose handlers must receive the event after this one in the same phase.
+         * <p>
+         * Only matches handlers attributed to those mods through {@link EventBus#register(Object, Mod)}.<br/>
+         * Handlers registered without a mod are never matched, although their own constraints still apply.<br/>
+         * Mods that are not loaded or have no handlers for the event are ignored.
+         * </p>
+         *
+         * @see Mod#getModID()
+         * @see EventBus#register(Object, Mod)
+         */
+        String[] before() default {};
+
+        /**
+         * IDs of the {@link Mod mods} whose handlers must receive the event before this one in the same phase.
+         * <p>
+         * Only matches handlers attributed to those mods through {@link EventBus#register(Object, Mod)}.<br/>
+         * Handlers registered without a mod are never matched, although their own constraints still apply.<br/>
+         * Mods that are not loaded or have no handlers for the event are ignored.
+         * </p>
+         *
+         * @see Mod#getModID()
+         * @see EventBus#register(Object, Mod)
+         */
+        String[] after() default {};
+
     }
 
     /**
@@ -1,5 +1,10 @@
 package mail.api.event;
 
+import mail.api.loader.Mod;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
 /**
  * Object that handles dispatching {@link Event events} to listeners.
  *
@@ -15,8 +20,56 @@ public interface EventBus {
      * If the argument is any other {@link Object}, all non-{@code static} event handlers in it will be registered,
      * but <b>none of the static ones</b>.
      * </p>
+     * <p>
+     * May throw an {@link IllegalStateException} if the {@link Event.Subscribe ordering constraints} of the
+     * handlers would form a cycle.
+     * </p>
+     */
+    void register(Object listener) throws IllegalStateException;
+
+    /**
+     * Registers a listener to this event bus on behalf of a {@link Mod}.
+     * <p>
+     * Behaves like {@link #register(Object)}, but the handlers are attributed to the specified mod so other handlers
+     * can be ordered relative to them through {@link Event.Subscribe#before()} and {@link Event.Subscribe#after()}.
+     * </p>
+     * <p>
+     * May throw an {@link IllegalStateException} if the {@link Event.Subscribe ordering constraints} of the
+     * handlers would form a cycle.
+     * </p>
+     */
+    void register(Object listener, Mod owner) throws IllegalStateException;
+
+    /**
+     * Registers a listener to this event bus, holding it through a weak reference.
+     * <p>
+     * Behaves like {@link #register(Object)}, but does not prevent the listener from being garbage collected.<br/>
+     * Handlers of collected listeners are pruned in batches outside of posting, and the handler chains are only
+     * rebuilt if pruning actually removed any.
+     * </p>
+     * <p>
+     * The {@link Handler handlers} of the listener also hold it weakly, so they can be kept by
+     * {@link EventBusMetrics metrics}, the {@link EventBusTracer tracer} or the
+     * {@link #getQuarantinedHandlers() quarantine} without keeping the listener alive.<br/>
+     * Their {@link Handler#getListener()} returns {@code null} once it has been collected.
+     * </p>
+     * <p>
+     * May throw an {@link IllegalArgumentException} if the listener is a {@link Class}.<br/>
+     * May throw an {@link IllegalStateException} if the {@link Event.Subscribe ordering constraints} of the
+     * handlers would form a cycle.
+     * </p>
+     *
+     * @see #pruneCollected()
      */
-    void register(Object listener);
+    void registerWeakly(Object listener) throws IllegalArgumentException, IllegalStateException;
+
+    /**
+     * Registers a listener to this event bus on behalf of a {@link Mod}, holding it through a weak reference.
+     * <p>
+     * Combines the behaviors of {@link #register(Object, Mod)} and {@link #registerWeakly(Object)}.
+     * </p>
+     */
+    void registerWeakly(Object listener, Mod owner) throws IllegalArgumentException, IllegalStateException;
 
     /**
      * Unregisters a listener from this event bus.
@@ -26,6 +79,17 @@ public interface EventBus {
      */
     void unregister(Object listener) throws IllegalStateException;
 
+    /**
+     * Immediately removes the handlers of all {@link #registerWeakly(Object) weakly registered} listeners that have
+     * been garbage collected.
+     * <p>
+     * The bus does this periodically on its own, so calling it is only needed to reclaim memory at a known point.
+     * </p>
+     *
+     * @return The number of listeners that were removed.
+     */
+    int pruneCollected();
+
     /**
      * Posts an {@link Event} to all the listeners in the bus.
      *
@@ -40,6 +104,34 @@ public interface EventBus {
      */
     <T> T post(Event.WithResult<T> event);
 
+    /**
+     * Posts an {@link Event.WithIntResult} to all the listeners in the bus.
+     *
+     * @return The event's result.
+     */
+    int post(Event.WithIntResult event);
+
+    /**
+     * Posts an {@link Event.WithLongResult} to all the listeners in the bus.
+     *
+     * @return The event's result.
+     */
+    long post(Event.WithLongResult event);
+
+    /**
+     * Posts an {@link Event.WithDoubleResult} to all the listeners in the bus.
+     *
+     * @return The event's result.
+     */
+    double post(Event.WithDoubleResult event);
+
+    /**
+     * Posts an {@link Event.WithBooleanResult} to all the listeners in the bus.
+     *
+     * @return The event's result.
+     */
+    boolean post(Event.WithBooleanResult event);
+
     /**
      * Posts an {@link Event} to all the listeners in the bus, but firing each phase is up to the developer.
      * <p>
@@ -61,6 +153,149 @@ public interface EventBus {
      */
     <T> PostedEvent.WithResult<T> postManually(Event.WithResult<T> event);
 
+    /**
+     * Posts an {@link Event.WithIntResult} to all the listeners in the bus, but firing each phase is up to the developer.
+     * <p>
+     * Automatically handles the {@link EventPhase#CANCELLATION cancellation phase} if necessary.
+     * </p>
+     *
+     * @return An object that allows the developer to fire each phase of the event and get the result.
+     */
+    PostedEvent.WithIntResult postManually(Event.WithIntResult event);
+
+    /**
+     * Posts an {@link Event.WithLongResult} to all the listeners in the bus, but firing each phase is up to the developer.
+     * <p>
+     * Automatically handles the {@link EventPhase#CANCELLATION cancellation phase} if necessary.
+     * </p>
+     *
+     * @return An object that allows the developer to fire each phase of the event and get the result.
+     */
+    PostedEvent.WithLongResult postManually(Event.WithLongResult event);
+
+    /**
+     * Posts an {@link Event.WithDoubleResult} to all the listeners in the bus, but firing each phase is up to the developer.
+     * <p>
+     * Automatically handles the {@link EventPhase#CANCELLATION cancellation phase} if necessary.
+     * </p>
+     *
+     * @return An object that allows the developer to fire each phase of the event and get the result.
+     */
+    PostedEvent.WithDoubleResult postManually(Event.WithDoubleResult event);
+
+    /**
+     * Posts an {@link Event.WithBooleanResult} to all the listeners in the bus, but firing each phase is up to the developer.
+     * <p>
+     * Automatically handles the {@link EventPhase#CANCELLATION cancellation phase} if necessary.
+     * </p>
+     *
+     * @return An object that allows the developer to fire each phase of the event and get the result.
+     */
+    PostedEvent.WithBooleanResult postManually(Event.WithBooleanResult event);
+
+    /**
+     * Gets the {@link EventBusMetrics dispatch metrics} of this event bus.
+     * <p>
+     * Metrics are disabled by default, in which case dispatching is not instrumented at all.
+     * </p>
+     */
+    EventBusMetrics getMetrics();
+
+    /**
+     * Gets the {@link EventBusTracer tracer} that records the most recent dispatches of this event bus.
+     * <p>
+     * Tracing is disabled by default.
+     * </p>
+     */
+    EventBusTracer getTracer();
+
+    /**
+     * Gets the policy applied when a handler throws an exception.
+     */
+    FailurePolicy getFailurePolicy();
+
+    /**
+     * Sets the policy applied when a handler throws an exception.
+     * <p>
+     * May throw an {@link IllegalStateException} if the event bus has been locked.<br/>
+     * Throws an {@link IllegalArgumentException} if {@code maxFailures} is not positive, regardless of the policy.
+     * </p>
+     *
+     * @param maxFailures The number of failures after which a handler is quarantined.
+     *                    Only used by {@link FailurePolicy#QUARANTINE}.
+     */
+    void setFailurePolicy(FailurePolicy policy, int maxFailures) throws IllegalArgumentException, IllegalStateException;
+
+    /**
+     * Sets the policy applied when a handler throws an exception.
+     * <p>
+     * With {@link FailurePolicy#QUARANTINE}, handlers are quarantined after {@code 10} failures.<br/>
+     * Use {@link #setFailurePolicy(FailurePolicy, int)} to pick a different threshold.
+     * </p>
+     * <p>
+     * May throw an {@link IllegalStateException} if the event bus has been locked.
+     * </p>
+     */
+    default void setFailurePolicy(FailurePolicy policy) throws IllegalStateException {
+        setFailurePolicy(policy, 10);
+    }
+
+    /**
+     * Gets the set of handlers that have been quarantined by the {@link FailurePolicy#QUARANTINE} policy.
+     */
+    Set<? extends Handler> getQuarantinedHandlers();
+
+    /**
+     * Releases a quarantined handler, resetting its failure count and allowing it to receive events again.
+     * <p>
+     * If the handler is registered but not quarantined, only its failure count is reset.<br/>
+     * If the handler is not registered to this bus, nothing happens.
+     * </p>
+     */
+    void releaseQuarantined(Handler handler);
+
+    /**
+     * Object that represents a single event handler registered to an event bus.
+     *
+     * @see Event.Subscribe
+     */
+    interface Handler {
+
+        /**
+         * Gets the method annotated with {@link Event.Subscribe}.
+         */
+        Method getMethod();
+
+        /**
+         * Gets the listener this handler was registered through.<br/>
+         * This is a {@link Class} for {@code static} handlers and the listener instance otherwise.
+         * <p>
+         * Handlers of {@link EventBus#registerWeakly(Object) weakly registered} listeners only hold them weakly, so
+         * keeping a handler around does not prevent its listener from being collected.<br/>
+         * Once the listener has been collected, this returns {@code null}.
+         * </p>
+         */
+        Object getListener();
+
+        /**
+         * Gets the type of {@link Event} this handler receives.
+         */
+        Class<? extends Event> getEventType();
+
+        /**
+         * Gets the phase in which this handler receives the event.
+         */
+        EventPhase getPhase();
+
+        /**
+         * Gets the ID of the {@link Mod} this handler was registered on behalf of, or {@code null} if none.
+         *
+         * @see EventBus#register(Object, Mod)
+         */
+        String getModID();
+
+    }
+
     /**
      * Object that handles firing each phase of an event.
      *
@@ -109,6 +344,62 @@ public interface EventBus {
 
         }
 
+        /**
+         * Object that handles firing each phase of an event with an {@code int} result.
+         *
+         * @see PostedEvent
+         */
+        interface WithIntResult extends PostedEvent {
+
+            /**
+             * Gets the result of the event.
+             */
+            int getResult();
+
+        }
+
+        /**
+         * Object that handles firing each phase of an event with a {@code long} result.
+         *
+         * @see PostedEvent
+         */
+        interface WithLongResult extends PostedEvent {
+
+            /**
+             * Gets the result of the event.
+             */
+            long getResult();
+
+        }
+
+        /**
+         * Object that handles firing each phase of an event with a {@code double} result.
+         *
+         * @see PostedEvent
+         */
+        interface WithDoubleResult extends PostedEvent {
+
+            /**
+             * Gets the result of the event.
+             */
+            double getResult();
+
+        }
+
+        /**
+         * Object that handles firing each phase of an event with a {@code boolean} result.
+         *
+         * @see PostedEvent
+         */
+        interface WithBooleanResult extends PostedEvent {
+
+            /**
+             * Gets the result of the event.
+             */
+            boolean getResult();
+
+        }
+
     }
 
 }
@@ -0,0 +1,190 @@
+package mail.api.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Optional instrumentation layer of an {@link EventBus}.
+ * <p>
+ * Keeps per event type and per handler invocation counts, latency histograms, cancellation counts for
+ * {@link Event.Cancelable cancelable events} and the number of posts that found no listeners.
+ * </p>
+ * <p>
+ * When disabled, the bus dispatches events through non-instrumented handler chains, so the cost is limited to a
+ * single check when the chains are built.<br/>
+ * Enabling or disabling the metrics causes the chains to be rebuilt.
+ * </p>
+ * <p>
+ * While enabled, implementations also commit {@link #JFR_EVENT_POST} and {@link #JFR_EVENT_HANDLER} events to any
+ * active flight recording.
+ * </p>
+ *
+ * @see EventBus#getMetrics()
+ */
+public interface EventBusMetrics {
+
+    /**
+     * Name of the flight recorder event committed for every {@link EventBus#post(Event) post}.
+     */
+    String JFR_EVENT_POST = "mail.event.Post";
+
+    /**
+     * Name of the flight recorder event committed for every handler invocation.
+     */
+    String JFR_EVENT_HANDLER = "mail.event.Handler";
+
+    /**
+     * Checks whether the metrics are being recorded.
+     */
+    boolean isEnabled();
+
+    /**
+     * Enables or disables the recording of metrics.
+     * <p>
+     * Previously recorded values are kept until {@link #reset()} is called.
+     * </p>
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Discards all the recorded values.
+     */
+    void reset();
+
+    /**
+     * Gets the set of {@link Event} types that have been posted since the last {@link #reset()}.
+     */
+    Set<Class<? extends Event>> getEventTypes();
+
+    /**
+     * Gets the recorded values for the specified {@link Event} type.
+     * <p>
+     * Never {@code null}. Types that have not been posted since the last {@link #reset()} get zeroed values.
+     * </p>
+     */
+    EventStats getStats(Class<? extends Event> eventType);
+
+    /**
+     * Gets the recorded values for the specified handler.
+     * <p>
+     * Never {@code null}. Handlers that have not been invoked since the last {@link #reset()} get zeroed values.
+     * </p>
+     */
+    HandlerStats getStats(EventBus.Handler handler);
+
+    /**
+     * Recorded values for a single {@link Event} type.
+     */
+    interface EventStats {
+
+        /**
+         * Gets the type of {@link Event} these values were recorded for.
+         */
+        Class<? extends Event> getEventType();
+
+        /**
+         * Gets the number of times the event was posted.
+         */
+        long getPostCount();
+
+        /**
+         * Gets the number of times the event was posted without any listeners to receive it.
+         */
+        long getUnhandledPostCount();
+
+        /**
+         * Gets the number of times the event was canceled during the {@link EventPhase#CANCELLATION cancellation phase}.<br/>
+         * Always {@code 0} for events that are not {@link Event.Cancelable cancelable}.
+         */
+        long getCancellationCount();
+
+        /**
+         * Gets the fraction of posts that ended up canceled.
+         */
+        default double getCancellationRate() {
+            long posts = getPostCount();
+            return posts == 0 ? 0 : (double) getCancellationCount() / posts;
+        }
+
+        /**
+         * Gets the latency of a full post, across all phases.
+         */
+        Latency getLatency();
+
+        /**
+         * Gets the recorded values for all the handlers that received this event.
+         */
+        Collection<? extends HandlerStats> getHandlers();
+
+    }
+
+    /**
+     * Recorded values for a single {@link EventBus.Handler handler}.
+     */
+    interface HandlerStats {
+
+        /**
+         * Gets the handler these values were recorded for.
+         */
+        EventBus.Handler getHandler();
+
+        /**
+         * Gets the number of times the handler was invoked.
+         */
+        long getInvocationCount();
+
+        /**
+         * Gets the number of times the handler canceled the event.<br/>
+         * Only counts invocations where the event was not already canceled.
+         */
+        long getCancellationCount();
+
+        /**
+         * Gets the latency of the handler's invocations.
+         */
+        Latency getLatency();
+
+    }
+
+    /**
+     * High dynamic range histogram of latencies, in nanoseconds.
+     */
+    interface Latency {
+
+        /**
+         * Gets the number of recorded values.
+         */
+        long getCount();
+
+        /**
+         * Gets the sum of all the recorded values.
+         */
+        long getTotalNanos();
+
+        /**
+         * Gets the highest recorded value.
+         */
+        long getMaxNanos();
+
+        /**
+         * Gets the mean of all the recorded values.
+         */
+        default double getMeanNanos() {
+            long count = getCount();
+            return count == 0 ? 0 : (double) getTotalNanos() / count;
+        }
+
+        /**
+         * Gets the value below which the specified percentage of the recorded values fall.
+         *
+         * <p>
+         * Returns {@code 0} if no values have been recorded.
+         * </p>
+         *
+         * @param percentile The percentile, between {@code 0} and {@code 100}.
+         */
+        long getValueAtPercentile(double percentile);
+
+    }
+
+}
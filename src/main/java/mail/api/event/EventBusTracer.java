@@ -0,0 +1,214 @@
+package mail.api.event;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Records the most recent dispatches of an {@link EventBus} for post-mortem analysis.
+ * <p>
+ * Every thread that posts events gets its own fixed-size ring buffer of preallocated primitive records, so recording
+ * a dispatch neither locks nor allocates.<br/>
+ * Once a buffer is full, the oldest records are overwritten.
+ * </p>
+ * <p>
+ * The buffers can be dumped on demand through {@link #dump(OutputStream, Format)}, or automatically whenever a
+ * handler throws through {@link #setDumpOnException(Path, Format)}.
+ * </p>
+ *
+ * @see EventBus#getTracer()
+ */
+public interface EventBusTracer {
+
+    /**
+     * Checks whether dispatches are being recorded.
+     */
+    boolean isEnabled();
+
+    /**
+     * Enables or disables the recording of dispatches.
+     * <p>
+     * Disabling the tracer does not clear the buffers.
+     * </p>
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Gets the number of records each thread's buffer can hold.
+     */
+    int getCapacity();
+
+    /**
+     * Sets the number of records each thread's buffer can hold.
+     * <p>
+     * Existing buffers are discarded and reallocated the next time their thread posts an event.
+     * </p>
+     */
+    void setCapacity(int capacity);
+
+    /**
+     * Discards all the records in every thread's buffer.
+     */
+    void clear();
+
+    /**
+     * Takes a snapshot of every thread's buffer, ordered by {@link Record#getTimestamp() timestamp}.
+     * <p>
+     * Unlike recording, this allocates and should not be called on the hot path.
+     * </p>
+     */
+    List<? extends Record> snapshot();
+
+    /**
+     * Writes a snapshot of every thread's buffer to the specified stream.
+     */
+    void dump(OutputStream out, Format format) throws IOException;
+
+    /**
+     * Makes the tracer write a snapshot to the specified file whenever a handler throws an exception.
+     * <p>
+     * Dumps are written by a background thread, never from inside dispatch, so the failing thread only flags that
+     * a dump is needed.<br/>
+     * Exceptions thrown while a dump is pending, or less than {@code minIntervalMillis} after the last one was
+     * written, do not trigger another one, so a burst of failures results in a single dump.
+     * </p>
+     * <p>
+     * The file is overwritten by every dump. Passing {@code null} disables dumping on exception.
+     * </p>
+     *
+     * @param file              The file to write the dumps to, or {@code null}.
+     * @param format            The format to write the dumps in.
+     * @param minIntervalMillis The minimum time between the end of a dump and the start of the next one.
+     */
+    void setDumpOnException(Path file, Format format, long minIntervalMillis);
+
+    /**
+     * Makes the tracer write a snapshot to the specified file whenever a handler throws an exception, at most
+     * once every second.
+     *
+     * @see #setDumpOnException(Path, Format, long)
+     */
+    default void setDumpOnException(Path file, Format format) {
+        setDumpOnException(file, format, 1000);
+    }
+
+    /**
+     * A single recorded dispatch.
+     */
+    interface Record {
+
+        /**
+         * Gets the identifier of the thread the dispatch happened on.
+         */
+        long getThreadID();
+
+        /**
+         * Gets the time at which the dispatch started, as given by {@link System#nanoTime()}.
+         */
+        long getTimestamp();
+
+        /**
+         * Gets the kind of dispatch that was recorded.
+         */
+        Kind getKind();
+
+        /**
+         * Gets the type of {@link Event} that was dispatched.
+         */
+        Class<? extends Event> getEventType();
+
+        /**
+         * Gets the phase the dispatch belongs to.
+         * <p>
+         * For {@link Kind#PHASE} records, this is the phase that was fired.<br/>
+         * For {@link Kind#HANDLER} records, this is the phase the handler is subscribed to.<br/>
+         * For {@link Kind#POST} and {@link Kind#POST_MANUALLY} records, which span every phase, this is {@code null}.
+         * </p>
+         */
+        EventPhase getPhase();
+
+        /**
+         * Gets the handler that was invoked, or {@code null} if the record is not for a {@link Kind#HANDLER handler}.
+         */
+        EventBus.Handler getHandler();
+
+        /**
+         * Gets the duration of the dispatch in nanoseconds.
+         */
+        long getDurationNanos();
+
+        /**
+         * Checks whether the event was canceled once the dispatch finished.
+         *
+         * @see EventBus.PostedEvent#wasCancelled()
+         */
+        boolean wasCancelled();
+
+        /**
+         * Checks whether the dispatch finished by throwing an exception.
+         */
+        boolean threw();
+
+    }
+
+    /**
+     * Kinds of dispatches that can be recorded.
+     */
+    enum Kind {
+        /**
+         * A call to {@link EventBus#post(Event)} or one of its variants.
+         */
+        POST,
+        /**
+         * A call to {@link EventBus#postManually(Event)} or one of its variants.
+         */
+        POST_MANUALLY,
+        /**
+         * One phase of a posted event being fired.
+         */
+        PHASE,
+        /**
+         * A single handler being invoked.
+         */
+        HANDLER
+    }
+
+    /**
+     * Formats a snapshot can be written in.
+     */
+    enum Format {
+        /**
+         * Compact binary format, with handlers and event types written once in a table and referenced by index.
+         * <p>
+         * All values are big-endian and strings are written as by {@link java.io.DataOutput#writeUTF(String)}, so the
+         * dump can be read back with a {@link java.io.DataInputStream}.<br/>
+         * The layout is the following, in order:
+         * </p>
+         * <pre>
+         * header:       int magic (0x4D41494C, "MAIL"), short version (1)
+         * event types:  int count, then per type: UTF class name
+         * handlers:     int count, then per handler: UTF declaring class name, UTF method name,
+         *               UTF method descriptor, byte phase ordinal, UTF mod ID (empty if none)
+         * records:      int count, then per record: long thread ID, long timestamp, byte kind ordinal,
+         *               int event type index, byte phase ordinal (-1 if {@link Record#getPhase() null}),
+         *               int handler index (-1 if {@link Record#getHandler() null}), long duration in nanoseconds,
+         *               byte flags (bit 0: canceled, bit 1: threw)
+         * </pre>
+         * <p>
+         * Ordinals refer to {@link Kind} and {@link EventPhase}. Records are ordered by timestamp.<br/>
+         * Readers must reject dumps with an unknown version.
+         * </p>
+         */
+        BINARY,
+        /**
+         * Human-readable text format, with one record per line.
+         * <p>
+         * Each line holds the same fields as a {@link #BINARY} record in the same order, separated by tabs, with
+         * event types and handlers written out in full and missing values written as {@code -}.
+         * </p>
+         */
+        TEXT
+    }
+
+}
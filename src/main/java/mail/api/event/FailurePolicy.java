@@ -0,0 +1,39 @@
+package mail.api.event;
+
+/**
+ * Determines what an {@link EventBus} does when one of its handlers throws an exception.
+ * <p>
+ * The policy is built into the bus' compiled handler chains, so the path where no exception is thrown costs the
+ * same regardless of the policy in use.
+ * </p>
+ *
+ * @see EventBus#setFailurePolicy(FailurePolicy, int)
+ */
+public enum FailurePolicy {
+    /**
+     * Rethrows the exception to the code that posted the event.
+     * <p>
+     * The remaining handlers do not receive the event.<br/>
+     * This is the default policy.
+     * </p>
+     */
+    PROPAGATE,
+    /**
+     * Logs the exception and keeps dispatching the event to the remaining handlers.
+     * <p>
+     * If the handler was part of a {@link Event.Cancelable cancellation} chain or a result chain of any kind
+     * ({@link Event.WithResult}, {@link Event.WithIntResult}, {@link Event.WithLongResult},
+     * {@link Event.WithDoubleResult} or {@link Event.WithBooleanResult}), the previous handler's result is passed
+     * on to the next one.
+     * </p>
+     */
+    ISOLATE,
+    /**
+     * Same as {@link #ISOLATE}, but handlers that fail too many times are quarantined.
+     * <p>
+     * Quarantined handlers are removed from the compiled chains and stop receiving events until they are
+     * {@link EventBus#releaseQuarantined(EventBus.Handler) released}.
+     * </p>
+     */
+    QUARANTINE
+}
@@ -23,6 +23,18 @@ public interface Loader {
      */
     Set<? extends Mod> getLoadedMods();
 
+    /**
+     * Gets the {@link StartupProfiler} that records where time goes while mods are loaded.
+     */
+    StartupProfiler getStartupProfiler();
+
+    /**
+     * Gets the classloader the {@link Mod} with the specified ID was loaded into, or {@code null} if it is not loaded.
+     *
+     * @see ModClassLoader
+     */
+    ClassLoader getClassLoader(String modID);
+
     /**
      * Object that represents the context in which a mod is being loaded.<br/>
      * Provides methods to inject sources into the classpath as well as an {@link EventBus} for lifecycle events.
@@ -31,11 +43,18 @@ public interface Loader {
 
         /**
          * Gets the classloader the current mod is being loaded into.
+         * <p>
+         * Every mod is loaded into its own {@link ModClassLoader}.
+         * </p>
          */
         ClassLoader getClassLoader();
 
         /**
          * Adds the contents of the specified URL to the classpath this mod is being loaded into.
+         * <p>
+         * The packages in it are indexed as owned by the current mod, so other mods load them directly from its
+         * {@link ModClassLoader}.
+         * </p>
          */
         void addSources(URL url);
 
@@ -44,6 +63,11 @@ public interface Loader {
          */
         EventBus getInternalEventBus();
 
+        /**
+         * Gets the {@link StartupProfiler} used to record the time spent loading this mod.
+         */
+        StartupProfiler getStartupProfiler();
+
     }
 
 }
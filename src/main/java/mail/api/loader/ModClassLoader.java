@@ -0,0 +1,156 @@
+package mail.api.loader;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * Isolated, parallel-capable classloader holding the sources of a single {@link Mod}.
+ * <p>
+ * Instead of searching the sources of every mod in order, classes and resources are looked up through a
+ * {@link PackageIndex} built from each {@link ModContainer#getPackages() container's packages}, and loaded directly
+ * from the loader of the mod that owns them.<br/>
+ * The parent loader is always asked first, so classes it can see are never redefined by a mod, even if the mod
+ * ships its own copy of them.
+ * </p>
+ * <p>
+ * Since the loader is parallel-capable, several threads can load classes at once, only contending when loading the
+ * same class.
+ * </p>
+ *
+ * @see Loader.ModContext#getClassLoader()
+ */
+public class ModClassLoader extends URLClassLoader {
+
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+
+    private final String modID;
+    private final PackageIndex index;
+
+    /**
+     * Creates a classloader for a single mod.
+     *
+     * @param modID  The ID of the mod whose sources this loader holds.
+     * @param urls   The initial sources of the mod.
+     * @param parent The loader all mod loaders share as a parent, asked before any mod.
+     * @param index  The lookup table shared by all mod loaders, used to find the owner of a package.
+     */
+    public ModClassLoader(String modID, URL[] urls, ClassLoader parent, PackageIndex index) {
+        super(urls, parent);
+        this.modID = modID;
+        this.index = index;
+    }
+
+    /**
+     * Gets the ID of the mod whose sources this loader holds.
+     */
+    public String getModID() {
+        return modID;
+    }
+
+    /**
+     * Adds the contents of the specified URL to this loader.
+     * <p>
+     * Only meant to be called by the {@link Loader} implementation, which must also add the packages in it to the
+     * {@link PackageIndex} for them to be visible to other mods.<br/>
+     * Mods must use {@link Loader.ModContext#addSources(URL)} instead.
+     * </p>
+     */
+    @Override
+    public void addURL(URL url) {
+        super.addURL(url);
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        ModClassLoader owner = getOwner(name, '.');
+        if (owner == null) {
+            return super.loadClass(name, resolve);
+        }
+
+        Class<?> type = findLoadedClass(name);
+        if (type == null) {
+            try {
+                return owner.loadClass(name, resolve);
+            } catch (ClassNotFoundException e) {
+                // The package is split across mods, so the class may still be in this mod's own sources
+            }
+
+            synchronized (getClassLoadingLock(name)) {
+                type = findLoadedClass(name);
+                if (type == null) {
+                    type = findClass(name);
+                }
+            }
+        }
+        if (resolve) {
+            resolveClass(type);
+        }
+        return type;
+    }
+
+    @Override
+    public URL findResource(String name) {
+        ModClassLoader owner = getOwner(name, '/');
+        if (owner != null) {
+            URL url = owner.findResource(name);
+            if (url != null) return url;
+        }
+        return super.findResource(name);
+    }
+
+    @Override
+    public Enumeration<URL> findResources(String name) throws IOException {
+        ModClassLoader owner = getOwner(name, '/');
+        if (owner == null) {
+            return super.findResources(name);
+        }
+
+        List<URL> urls = Collections.list(owner.findResources(name));
+        urls.addAll(Collections.list(super.findResources(name)));
+        return Collections.enumeration(urls);
+    }
+
+    /**
+     * Gets the loader that owns the package of the specified class or resource, or {@code null} if it is this one
+     * or no mod owns it.
+     */
+    private ModClassLoader getOwner(String name, char separator) {
+        int separatorIndex = name.lastIndexOf(separator);
+        String packageName = separatorIndex == -1 ? "" : name.substring(0, separatorIndex).replace('/', '.');
+        ModClassLoader owner = index.getOwner(packageName);
+        return owner == this ? null : owner;
+    }
+
+    /**
+     * Lookup table from package names to the loader of the mod that owns them.
+     * <p>
+     * Must be safe to query from several threads at once.
+     * </p>
+     * <p>
+     * Packages the parent loader can see may be indexed, but the parent always takes precedence over the owner.<br/>
+     * A package may only have one owner. If several mods ship classes in the same package, classes are looked up
+     * in the owner first and in the requesting mod's own sources second, so a mod can always load its own classes
+     * but other mods can only see the owner's.
+     * </p>
+     * <p>
+     * Since each half of a split package is defined by a different loader, they form different runtime packages.<br/>
+     * Package-private members cannot be accessed across them, and doing so fails with an {@link IllegalAccessError}.
+     * Implementations should warn about split packages when building the index.
+     * </p>
+     */
+    public interface PackageIndex {
+
+        /**
+         * Gets the loader of the mod that owns the specified package, or {@code null} if no mod owns it.
+         */
+        ModClassLoader getOwner(String packageName);
+
+    }
+
+}
@@ -4,6 +4,7 @@ import mail.api.serial.DataStructure;
 
 import java.nio.file.FileSystem;
 import java.nio.file.Path;
+import java.util.Set;
 
 /**
  * Object that represents a container (jar or directory) with a mod in it.
@@ -35,5 +36,15 @@ public interface ModContainer {
      */
     DataStructure getMetadata();
 
+    /**
+     * Gets the names of all the packages containing classes in this container.<br/>
+     * Used to build the index that {@link ModClassLoader mod classloaders} look classes up through.
+     * <p>
+     * This includes packages also provided by the parent loader or by other containers.<br/>
+     * How those are resolved is described in {@link ModClassLoader.PackageIndex}.
+     * </p>
+     */
+    Set<String> getPackages();
+
 }
 
@@ -0,0 +1,159 @@
+package mail.api.loader;
+
+import mail.api.serial.SerializationHandler;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.URL;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Records where time goes while the {@link Loader} starts up.
+ * <p>
+ * Every {@link Phase phase} of every {@link Mod} is recorded as a {@link Span} along with the thread it ran on.<br/>
+ * The loader records the built-in phases on its own, and {@link ModProvider providers} can record any extra work
+ * through {@link #open(String, Phase, String)}.
+ * </p>
+ * <p>
+ * While a flight recording is active, implementations also commit a {@link #JFR_EVENT_SPAN} event for every span.
+ * </p>
+ *
+ * @see Loader#getStartupProfiler()
+ * @see Loader.ModContext#getStartupProfiler()
+ */
+public interface StartupProfiler {
+
+    /**
+     * Name of the flight recorder event committed for every span.
+     */
+    String JFR_EVENT_SPAN = "mail.loader.Span";
+
+    /**
+     * Starts recording a span. The span ends when the returned scope is closed.
+     *
+     * @param modID  The ID of the mod the work is being done for, or {@code null} if it is not specific to one.
+     * @param phase  The phase the work is part of.
+     * @param detail Optional description of the work, such as a file or event name.
+     */
+    Scope open(String modID, Phase phase, String detail);
+
+    /**
+     * Gets all the spans recorded so far, ordered by start time.
+     */
+    List<? extends Span> getSpans();
+
+    /**
+     * Gets the IDs of the mods with the highest total time across all phases, slowest first.
+     * <p>
+     * If fewer mods have been recorded, all of them are returned.
+     * </p>
+     *
+     * @param count The maximum number of mods to return.
+     */
+    List<String> getSlowestMods(int count);
+
+    /**
+     * Writes all the spans recorded so far in the Chrome trace event JSON format.
+     */
+    void exportChromeTrace(Writer writer) throws IOException;
+
+    /**
+     * Prints a per-phase summary of the slowest mods.
+     * <p>
+     * If fewer mods have been recorded, all of them are printed.
+     * </p>
+     *
+     * @param out   The stream to print the summary to.
+     * @param count The maximum number of mods to print, as given by {@link #getSlowestMods(int)}.
+     */
+    void printSummary(PrintStream out, int count);
+
+    /**
+     * A single recorded unit of work.
+     */
+    interface Span {
+
+        /**
+         * Gets the ID of the mod the work was done for, or {@code null} if it was not specific to one.
+         */
+        String getModID();
+
+        /**
+         * Gets the phase the work was part of.
+         */
+        Phase getPhase();
+
+        /**
+         * Gets the description of the work, or {@code null} if none was provided.
+         */
+        String getDetail();
+
+        /**
+         * Gets the identifier of the thread the work was done on.
+         */
+        long getThreadID();
+
+        /**
+         * Gets the name of the thread the work was done on.<br/>
+         * Names are not unique, so {@link #getThreadID()} should be used to tell threads apart.
+         */
+        String getThreadName();
+
+        /**
+         * Gets the time at which the work started, in nanoseconds since the loader started.
+         */
+        long getStartNanos();
+
+        /**
+         * Gets the duration of the work in nanoseconds.
+         */
+        long getDurationNanos();
+
+    }
+
+    /**
+     * Handle to a span being recorded.
+     */
+    interface Scope extends AutoCloseable {
+
+        /**
+         * Ends the span.
+         */
+        @Override
+        void close();
+
+    }
+
+    /**
+     * Phases of the {@link Loader}'s startup.
+     */
+    enum Phase {
+        /**
+         * {@link ModProvider#identify(Set) Identification} of the mods in a set of containers.
+         */
+        IDENTIFY,
+        /**
+         * Parsing of a mod's metadata through a {@link SerializationHandler}.
+         */
+        METADATA,
+        /**
+         * {@link ModProvider#preload(Mod.Prototype, Loader.ModContext) Pre-loading} of a mod.
+         */
+        PRELOAD,
+        /**
+         * {@link Loader.ModContext#addSources(URL) Addition of sources} to a mod's classpath.
+         */
+        ADD_SOURCES,
+        /**
+         * {@link ModProvider#load(Mod.Prototype, Loader.ModContext) Loading} of a mod.
+         */
+        LOAD,
+        /**
+         * Handling of a lifecycle event posted to the {@link Loader.ModContext#getInternalEventBus() internal event bus}.
+         */
+        LIFECYCLE_EVENT
+    }
+
+}